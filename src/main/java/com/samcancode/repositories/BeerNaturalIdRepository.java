@@ -0,0 +1,13 @@
+package com.samcancode.repositories;
+
+import java.util.Optional;
+
+import com.samcancode.domain.Beer;
+
+public interface BeerNaturalIdRepository {
+
+    /**
+     * Looks up a beer by its natural id, resolving upc to id through the natural-id cache.
+     */
+    Optional<Beer> findByUpc(Long upc);
+}
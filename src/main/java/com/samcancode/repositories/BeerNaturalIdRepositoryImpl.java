@@ -0,0 +1,23 @@
+package com.samcancode.repositories;
+
+import java.util.Optional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.hibernate.Session;
+
+import com.samcancode.domain.Beer;
+
+public class BeerNaturalIdRepositoryImpl implements BeerNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Beer> findByUpc(Long upc) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Beer.class)
+                .loadOptional(upc);
+    }
+}
@@ -6,5 +6,5 @@ import org.springframework.data.repository.PagingAndSortingRepository;
 
 import com.samcancode.domain.Beer;
 
-public interface BeerRepository extends PagingAndSortingRepository<Beer, UUID> {
-}
\ No newline at end of file
+public interface BeerRepository extends PagingAndSortingRepository<Beer, UUID>, BeerNaturalIdRepository {
+}
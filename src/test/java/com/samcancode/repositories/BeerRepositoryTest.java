@@ -0,0 +1,92 @@
+package com.samcancode.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.samcancode.domain.Beer;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED) //each step runs in its own transaction so the second-level cache is exercised
+class BeerRepositoryTest {
+
+    @Autowired
+    BeerRepository beerRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    TransactionTemplate tx;
+    Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        beerRepository.deleteAll();
+    }
+
+    @Test
+    void findByIdAndUpdateAreServedFromSecondLevelCache() {
+        //Given
+        UUID beerId = tx.execute(status -> beerRepository.save(newBeer(337010000011L)).getId());
+        statistics.clear();
+
+        //When - same sequence as BeerController.updateBeerById followed by getBeerById
+        tx.executeWithoutResult(status -> {
+            Beer beer = beerRepository.findById(beerId).get();
+            beer.setBeerName("Mango Bobs Reloaded");
+            beerRepository.save(beer);
+        });
+        Beer reloaded = tx.execute(status -> beerRepository.findById(beerId).get());
+
+        //Then
+        assertThat(reloaded.getBeerName()).isEqualTo("Mango Bobs Reloaded");
+        assertThat(statistics.getDomainDataRegionStatistics("beer").getHitCount()).isEqualTo(2);
+        assertThat(statistics.getEntityStatistics(Beer.class.getName()).getLoadCount()).isZero();
+    }
+
+    @Test
+    void findByUpcIsServedFromNaturalIdCache() {
+        //Given
+        UUID beerId = tx.execute(status -> beerRepository.save(newBeer(337010000012L)).getId());
+        statistics.clear();
+
+        //When
+        Beer found = tx.execute(status -> beerRepository.findByUpc(337010000012L).get());
+
+        //Then
+        assertThat(found.getId()).isEqualTo(beerId);
+        assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getNaturalIdQueryExecutionCount()).isZero();
+        assertThat(statistics.getEntityStatistics(Beer.class.getName()).getLoadCount()).isZero();
+    }
+
+    private Beer newBeer(Long upc) {
+        return Beer.builder()
+                .beerName("Mango Bobs")
+                .beerStyle("IPA")
+                .quantityToBrew(200)
+                .minOnHand(12)
+                .upc(upc)
+                .price(new BigDecimal("12.95"))
+                .build();
+    }
+}